@@ -0,0 +1,38 @@
+package grades;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the statistics pass over the entered grades.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradeSummaryBenchmark {
+    @Param({"100", "10000", "1000000"})
+    private int students;
+
+    private List<Student> list;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        list = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            list.add(new Student("Student" + i, random.nextInt(10001) / 100.0));
+        }
+    }
+
+    @Benchmark
+    public GradeSummary summarize() {
+        return new GradeSummary(list);
+    }
+}
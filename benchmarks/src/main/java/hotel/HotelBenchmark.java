@@ -0,0 +1,115 @@
+package hotel;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures booking, cancellation and persistence for a hotel where nearly every
+ * room is already booked, so lookups scan the whole list.
+ * Data goes to a temporary file; console output is discarded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotelBenchmark {
+    /** Calls per measured batch in the booking benchmarks; scores are per batch. */
+    private static final int BATCH = 50;
+
+    @State(Scope.Thread)
+    public static class Rooms {
+        @Param({"100", "10000"})
+        int rooms;
+
+        File dataFile;
+        Hotel hotel;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            dataFile = Files.createTempFile("hotel_data", ".txt").toFile();
+            build(1);
+            hotel.saveData();
+        }
+
+        /** Replaces the hotel with one where all rooms except the last {@code free} are booked. */
+        void build(int free) throws IOException {
+            if (free > rooms) {
+                throw new IllegalStateException("rooms must be at least " + free);
+            }
+            // An empty file skips the sample rooms, leaving exactly the rooms added below.
+            Files.writeString(dataFile.toPath(), "");
+            hotel = new Hotel(dataFile);
+            for (int i = 0; i < rooms; i++) {
+                hotel.addRoom(new Room(1000 + i, RoomType.DELUXE, 150));
+            }
+            for (int i = 0; i < rooms - free; i++) {
+                hotel.makeBooking("Guest" + i, RoomType.DELUXE, 2);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            dataFile.delete();
+        }
+    }
+
+    /** Leaves one free room for each call in the batch. */
+    public static class FreeRooms extends Rooms {
+        @Setup(Level.Iteration)
+        public void reset() throws IOException {
+            build(BATCH);
+        }
+    }
+
+    /** Holds the ids of the most recent bookings, one for each call in the batch. */
+    public static class PendingCancels extends Rooms {
+        final Deque<String> ids = new ArrayDeque<>();
+
+        @Setup(Level.Iteration)
+        public void reset() throws IOException {
+            build(1);
+            ids.clear();
+            List<Booking> bookings = hotel.getBookings();
+            for (Booking b : bookings.subList(bookings.size() - BATCH, bookings.size())) {
+                ids.push(b.getBookingId());
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public Booking makeBooking(FreeRooms state) {
+        return state.hotel.makeBooking("Guest", RoomType.DELUXE, 2);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public boolean cancelBooking(PendingCancels state) {
+        return state.hotel.cancelBooking(state.ids.pop());
+    }
+
+    @Benchmark
+    public void saveData(Rooms state) {
+        state.hotel.saveData();
+    }
+
+    @Benchmark
+    public void loadData(Rooms state) {
+        state.hotel.loadData();
+    }
+}
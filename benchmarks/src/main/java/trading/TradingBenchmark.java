@@ -0,0 +1,119 @@
+package trading;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures trading, portfolio display and price refresh for generated markets.
+ * Each state is parameterized only by the size its benchmarks depend on.
+ * Console output from the measured methods is discarded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradingBenchmark {
+    private static final int SHARES_PER_HOLDING = 100_000_000;
+
+    /** Calls per measured batch in the trade benchmarks; scores are per batch. */
+    private static final int BATCH = 10_000;
+
+    /** Market of {@code marketSize} stocks for the price refresh. */
+    @State(Scope.Thread)
+    public static class Market {
+        @Param({"100", "10000"})
+        int marketSize;
+
+        Map<String, Stock> market;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            market = newMarket(marketSize);
+        }
+    }
+
+    /** Fresh user per batch, so the transaction log never holds more than one batch. */
+    @State(Scope.Thread)
+    public static class Trader {
+        Stock stock;
+        User user;
+
+        @Setup(Level.Trial)
+        public void setUpStock() {
+            stock = newMarket(1).values().iterator().next();
+        }
+
+        @Setup(Level.Iteration)
+        public void setUpUser() {
+            user = new User("bench", 1e15);
+            user.buyStock(stock, SHARES_PER_HOLDING);
+        }
+    }
+
+    /** User holding every stock of a {@code holdings}-stock market. */
+    @State(Scope.Thread)
+    public static class Portfolio {
+        @Param({"10", "100"})
+        int holdings;
+
+        Map<String, Stock> market;
+        User user;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            market = newMarket(holdings);
+            user = new User("bench", 1e15);
+            for (Stock stock : market.values()) {
+                user.buyStock(stock, SHARES_PER_HOLDING);
+            }
+        }
+    }
+
+    private static Map<String, Stock> newMarket(int size) {
+        Random random = new Random(42);
+        Map<String, Stock> market = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String symbol = String.format("S%05d", i);
+            market.put(symbol, new Stock(symbol, "Company " + i, 10 + random.nextInt(490)));
+        }
+        return market;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 50, batchSize = BATCH)
+    @Measurement(iterations = 30, batchSize = BATCH)
+    public boolean buyStock(Trader state) {
+        return state.user.buyStock(state.stock, 1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 50, batchSize = BATCH)
+    @Measurement(iterations = 30, batchSize = BATCH)
+    public boolean sellStock(Trader state) {
+        return state.user.sellStock(state.stock, 1);
+    }
+
+    @Benchmark
+    public void displayPortfolio(Portfolio state) {
+        state.user.displayPortfolio(state.market);
+    }
+
+    @Benchmark
+    public void updateMarketPrices(Market state) {
+        for (Stock stock : state.market.values()) {
+            stock.updatePrice();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plain-text HTTP server on 127.0.0.1 shared by the headless service modes.
+ * Parameters come from the query string; a bad parameter becomes a 400 response.
+ */
+public class LocalHttpServer {
+    /** Large enough that thousands of concurrent clients are not dropped at the listen queue. */
+    public static final int DEFAULT_BACKLOG = 4096;
+
+    private final HttpServer server;
+
+    public LocalHttpServer(int port, int backlog) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), backlog);
+        server.setExecutor(newRequestExecutor());
+    }
+
+    public void route(String path, Route route) {
+        server.createContext(path, ex -> handle(ex, path, route));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public record Response(int status, String body) {
+        public static Response ok(String body) {
+            return new Response(200, body);
+        }
+    }
+
+    public interface Route {
+        Response apply(Map<String, String> query);
+    }
+
+    public static String required(Map<String, String> query, String key) {
+        String value = query.get(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing parameter: " + key);
+        }
+        return value;
+    }
+
+    private static void handle(HttpExchange ex, String path, Route route) throws IOException {
+        Response result;
+        // Contexts match by prefix; only the exact path reaches the route.
+        if (!ex.getRequestURI().getPath().equals(path)) {
+            result = new Response(404, "Not found\n");
+        } else {
+            try {
+                result = route.apply(parseQuery(ex.getRequestURI()));
+            } catch (IllegalArgumentException e) {
+                result = new Response(400, e.getMessage() + "\n");
+            }
+        }
+        byte[] bytes = result.body().getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        ex.sendResponseHeaders(result.status(), bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) return query;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * One virtual thread per request when the JDK has them (21+),
+     * otherwise a cached pool of platform threads.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package grades;
+
+import java.util.List;
+
+/**
+ * Average, highest and lowest grade of a non-empty list of students.
+ */
+class GradeSummary {
+    private double average;
+    private double highest;
+    private double lowest;
+    private String topStudent;
+    private String lowStudent;
+
+    public GradeSummary(List<Student> students) {
+        double total = 0;
+        highest = Double.MIN_VALUE;
+        lowest = Double.MAX_VALUE;
+        topStudent = "";
+        lowStudent = "";
+
+        for (Student s : students) {
+            double g = s.getGrade();
+            total += g;
+
+            if (g > highest) {
+                highest = g;
+                topStudent = s.getName();
+            }
+
+            if (g < lowest) {
+                lowest = g;
+                lowStudent = s.getName();
+            }
+        }
+
+        average = total / students.size();
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public double getHighest() {
+        return highest;
+    }
+
+    public double getLowest() {
+        return lowest;
+    }
+
+    public String getTopStudent() {
+        return topStudent;
+    }
+
+    public String getLowStudent() {
+        return lowStudent;
+    }
+}
@@ -0,0 +1,19 @@
+package grades;
+
+class Student {
+    private String name;
+    private double grade;
+
+    public Student(String name, double grade) {
+        this.name = name;
+        this.grade = grade;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getGrade() {
+        return grade;
+    }
+}
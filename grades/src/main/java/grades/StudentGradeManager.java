@@ -1,24 +1,8 @@
+package grades;
+
 import java.util.ArrayList;
 import java.util.Scanner;
 
-class Student {
-    private String name;
-    private double grade;
-
-    public Student(String name, double grade) {
-        this.name = name;
-        this.grade = grade;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public double getGrade() {
-        return grade;
-    }
-}
-
 public class StudentGradeManager {
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
@@ -58,25 +42,7 @@ public class StudentGradeManager {
         }
 
         // Calculate statistics
-        double total = 0, highest = Double.MIN_VALUE, lowest = Double.MAX_VALUE;
-        String topStudent = "", lowStudent = "";
-
-        for (Student s : students) {
-            double g = s.getGrade();
-            total += g;
-
-            if (g > highest) {
-                highest = g;
-                topStudent = s.getName();
-            }
-
-            if (g < lowest) {
-                lowest = g;
-                lowStudent = s.getName();
-            }
-        }
-
-        double average = total / students.size();
+        GradeSummary summary = new GradeSummary(students);
 
         // Display summary
         System.out.println("\n=== Summary Report === - TASK 1.java:82");
@@ -86,12 +52,11 @@ public class StudentGradeManager {
             System.out.printf("%-20s %-10.2f\n", s.getName(), s.getGrade());
         }
         System.out.println("");
-        System.out.printf("Average Grade: %.2f\n", average);
-        System.out.printf("Highest Grade: %.2f (%s)\n", highest, topStudent);
-        System.out.printf("Lowest Grade: %.2f (%s)\n", lowest, lowStudent);
+        System.out.printf("Average Grade: %.2f\n", summary.getAverage());
+        System.out.printf("Highest Grade: %.2f (%s)\n", summary.getHighest(), summary.getTopStudent());
+        System.out.printf("Lowest Grade: %.2f (%s)\n", summary.getLowest(), summary.getLowStudent());
 
         System.out.println("\nThank you for using Student Grade Manager! - TASK 1.java:93");
         scanner.close();
     }
 }
-
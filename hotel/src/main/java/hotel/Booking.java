@@ -0,0 +1,49 @@
+package hotel;
+
+/**
+ * Represents a booking/reservation made by a user.
+ */
+class Booking {
+    private String bookingId;
+    private String customerName;
+    private Room room;
+    private int nights;
+    private double totalAmount;
+    private volatile boolean paid;
+
+    public Booking(String bookingId, String customerName, Room room, int nights) {
+        this.bookingId = bookingId;
+        this.customerName = customerName;
+        this.room = room;
+        this.nights = nights;
+        this.totalAmount = room.getPricePerNight() * nights;
+        this.paid = false;
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public boolean isPaid() {
+        return paid;
+    }
+
+    public void markPaid() {
+        this.paid = true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Booking ID: %s | Customer: %s | Room: %d (%s) | Nights: %d | Total: $%.2f | Paid: %s",
+                bookingId, customerName, room.getRoomNumber(), room.getType(), nights, totalAmount,
+                (paid ? "YES" : "NO"));
+    }
+}
@@ -0,0 +1,228 @@
+package hotel;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents the Hotel, managing rooms and bookings.
+ * Rooms and bookings are guarded by {@code lock}; the data file by {@code fileLock},
+ * so file I/O never runs while the rooms are locked. Both are ReentrantLocks rather
+ * than monitors so that blocked virtual threads do not pin their carrier threads.
+ */
+class Hotel {
+    private List<Room> rooms = new ArrayList<>();
+    private List<Booking> bookings = new ArrayList<>();
+    private final File dataFile;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock fileLock = new ReentrantLock();
+
+    public Hotel() {
+        this(new File("hotel_data.txt"));
+    }
+
+    public Hotel(File dataFile) {
+        this.dataFile = dataFile;
+        loadData();
+    }
+
+    /**
+     * Adds sample rooms if no file exists.
+     */
+    public void initializeRooms() {
+        lock.lock();
+        try {
+            if (rooms.isEmpty()) {
+                rooms.add(new Room(101, RoomType.STANDARD, 80));
+                rooms.add(new Room(102, RoomType.STANDARD, 85));
+                rooms.add(new Room(201, RoomType.DELUXE, 150));
+                rooms.add(new Room(202, RoomType.DELUXE, 160));
+                rooms.add(new Room(301, RoomType.SUITE, 250));
+                rooms.add(new Room(302, RoomType.SUITE, 270));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addRoom(Room room) {
+        lock.lock();
+        try {
+            rooms.add(room);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Room> getAvailableRooms(RoomType type) {
+        lock.lock();
+        try {
+            List<Room> available = new ArrayList<>();
+            for (Room r : rooms) {
+                if (r.getType() == type && !r.isBooked()) {
+                    available.add(r);
+                }
+            }
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Booking> getBookings() {
+        lock.lock();
+        try {
+            return new ArrayList<>(bookings);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void displayAvailableRooms(RoomType type) {
+        System.out.println("\n=== Available " + type + " Rooms ===");
+        List<Room> available = getAvailableRooms(type);
+        for (Room r : available) {
+            System.out.println(r);
+        }
+        if (available.isEmpty()) System.out.println("No available rooms in this category.");
+    }
+
+    public Booking makeBooking(String customerName, RoomType type, int nights) {
+        lock.lock();
+        try {
+            for (Room r : rooms) {
+                if (r.getType() == type && !r.isBooked()) {
+                    String bookingId = UUID.randomUUID().toString().substring(0, 8);
+                    Booking booking = new Booking(bookingId, customerName, r, nights);
+                    r.setBooked(true);
+                    bookings.add(booking);
+                    return booking;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+    /** Marks a booking paid and saves it. */
+    public void payBooking(Booking booking) {
+        lock.lock();
+        try {
+            booking.markPaid();
+        } finally {
+            lock.unlock();
+        }
+        saveData();
+    }
+
+    public boolean cancelBooking(String bookingId) {
+        Booking canceled = null;
+        lock.lock();
+        try {
+            for (Booking b : bookings) {
+                if (b.getBookingId().equals(bookingId)) {
+                    b.getRoom().setBooked(false);
+                    bookings.remove(b);
+                    canceled = b;
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (canceled == null) {
+            return false;
+        }
+        saveData();
+        return true;
+    }
+
+    public void displayAllBookings() {
+        System.out.println("\n=== All Bookings ===");
+        List<Booking> all = getBookings();
+        if (all.isEmpty()) {
+            System.out.println("No bookings found.");
+        } else {
+            for (Booking b : all) {
+                System.out.println(b);
+            }
+        }
+    }
+
+    /** Save all data to file */
+    public void saveData() {
+        // Holding fileLock across snapshot and write keeps an older snapshot
+        // from overwriting a newer one.
+        fileLock.lock();
+        try {
+            String snapshot = snapshot();
+            try (PrintWriter writer = new PrintWriter(new FileWriter(dataFile))) {
+                writer.print(snapshot);
+            } catch (IOException e) {
+                System.out.println("Error saving data: " + e.getMessage());
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private String snapshot() {
+        lock.lock();
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (Room r : rooms) {
+                sb.append(String.format("ROOM,%d,%s,%.2f,%s\n",
+                        r.getRoomNumber(), r.getType(), r.getPricePerNight(), r.isBooked()));
+            }
+            for (Booking b : bookings) {
+                sb.append(String.format("BOOKING,%s,%s,%d,%d,%.2f,%s\n",
+                        b.getBookingId(), b.getRoom().getType(), b.getRoom().getRoomNumber(),
+                        b.getRoom().isBooked() ? 1 : 0, b.getTotalAmount(), b.isPaid()));
+            }
+            return sb.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Load data from file */
+    public void loadData() {
+        if (!dataFile.exists()) {
+            initializeRooms();
+            return;
+        }
+
+        List<Room> loaded = new ArrayList<>();
+        fileLock.lock();
+        try (BufferedReader reader = new BufferedReader(new FileReader(dataFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts[0].equals("ROOM")) {
+                    int roomNum = Integer.parseInt(parts[1]);
+                    RoomType type = RoomType.valueOf(parts[2]);
+                    double price = Double.parseDouble(parts[3]);
+                    boolean booked = Boolean.parseBoolean(parts[4]);
+                    Room r = new Room(roomNum, type, price);
+                    r.setBooked(booked);
+                    loaded.add(r);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading data: " + e.getMessage());
+            return;
+        } finally {
+            fileLock.unlock();
+        }
+
+        lock.lock();
+        try {
+            rooms.clear();
+            bookings.clear();
+            rooms.addAll(loaded);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
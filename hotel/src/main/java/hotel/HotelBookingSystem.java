@@ -0,0 +1,107 @@
+package hotel;
+
+import common.LocalHttpServer;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Main class with console interface.
+ */
+public class HotelBookingSystem {
+    private static Scanner scanner = new Scanner(System.in);
+    private static Hotel hotel = new Hotel();
+
+    public static void main(String[] args) throws IOException {
+        hotel.initializeRooms();
+
+        if (args.length > 0 && args[0].equals("--serve")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            int backlog = args.length > 2 ? Integer.parseInt(args[2]) : LocalHttpServer.DEFAULT_BACKLOG;
+            new HotelServer(hotel, port, backlog).start();
+            return;
+        }
+
+        System.out.println("=== Welcome to Hotel Booking System ===");
+        while (true) {
+            showMenu();
+            int choice;
+            try {
+                choice = Integer.parseInt(scanner.nextLine());
+            } catch (Exception e) {
+                System.out.println("Invalid input. Try again.");
+                continue;
+            }
+
+            switch (choice) {
+                case 1 -> searchRooms();
+                case 2 -> bookRoom();
+                case 3 -> cancelBooking();
+                case 4 -> hotel.displayAllBookings();
+                case 0 -> {
+                    hotel.saveData();
+                    System.out.println("💾 Data saved. Exiting system...");
+                    return;
+                }
+                default -> System.out.println("Invalid option. Try again.");
+            }
+        }
+    }
+
+    private static void showMenu() {
+        System.out.println("""
+                
+                1. Search Available Rooms
+                2. Book a Room
+                3. Cancel Booking
+                4. View All Bookings
+                0. Exit
+                """);
+        System.out.print("Enter your choice: ");
+    }
+
+    private static void searchRooms() {
+        RoomType type = getRoomTypeFromUser();
+        hotel.displayAvailableRooms(type);
+    }
+
+    private static void bookRoom() {
+        System.out.print("Enter your name: ");
+        String name = scanner.nextLine();
+        RoomType type = getRoomTypeFromUser();
+        System.out.print("Enter number of nights: ");
+        int nights = Integer.parseInt(scanner.nextLine());
+
+        Booking booking = hotel.makeBooking(name, type, nights);
+        if (booking == null) {
+            System.out.println("⚠️ No available rooms of this type.");
+        } else {
+            System.out.println("✅ Room booked successfully with Booking ID: " + booking.getBookingId());
+            if (Payment.processPayment(booking.getTotalAmount())) {
+                hotel.payBooking(booking);
+            } else {
+                System.out.println("❌ Payment not completed. Booking not finalized.");
+            }
+        }
+    }
+
+    private static void cancelBooking() {
+        System.out.print("Enter Booking ID to cancel: ");
+        String id = scanner.nextLine();
+        if (hotel.cancelBooking(id)) {
+            System.out.println("🗑️ Booking canceled successfully.");
+        } else {
+            System.out.println("⚠️ Booking ID not found.");
+        }
+    }
+
+    private static RoomType getRoomTypeFromUser() {
+        System.out.println("Select Room Type: 1. STANDARD  2. DELUXE  3. SUITE");
+        int type = Integer.parseInt(scanner.nextLine());
+        return switch (type) {
+            case 2 -> RoomType.DELUXE;
+            case 3 -> RoomType.SUITE;
+            default -> RoomType.STANDARD;
+        };
+    }
+}
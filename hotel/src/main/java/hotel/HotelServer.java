@@ -0,0 +1,76 @@
+package hotel;
+
+import common.LocalHttpServer;
+import common.LocalHttpServer.Response;
+
+import java.io.*;
+import java.util.*;
+
+import static common.LocalHttpServer.required;
+
+/**
+ * Headless HTTP front end for the hotel, used instead of the console menu.
+ */
+class HotelServer {
+    private final Hotel hotel;
+    private final int port;
+    private final int backlog;
+
+    public HotelServer(Hotel hotel, int port, int backlog) {
+        this.hotel = hotel;
+        this.port = port;
+        this.backlog = backlog;
+    }
+
+    public void start() throws IOException {
+        LocalHttpServer server = new LocalHttpServer(port, backlog);
+        server.route("/rooms", this::rooms);
+        server.route("/book", this::book);
+        server.route("/cancel", this::cancel);
+        server.route("/bookings", q -> bookings());
+        server.start();
+        System.out.println("🏨 Hotel service listening on http://127.0.0.1:" + port);
+    }
+
+    private Response rooms(Map<String, String> query) {
+        RoomType type = RoomType.valueOf(required(query, "type").toUpperCase());
+        StringBuilder body = new StringBuilder();
+        for (Room r : hotel.getAvailableRooms(type)) {
+            body.append(r).append('\n');
+        }
+        return Response.ok(body.toString());
+    }
+
+    private Response book(Map<String, String> query) {
+        String name = required(query, "name");
+        RoomType type = RoomType.valueOf(required(query, "type").toUpperCase());
+        int nights = Integer.parseInt(required(query, "nights"));
+        if (nights <= 0) {
+            throw new IllegalArgumentException("nights must be positive");
+        }
+        Booking booking = hotel.makeBooking(name, type, nights);
+        if (booking == null) {
+            return new Response(409, "No available rooms of this type.\n");
+        }
+        // There is no interactive payment step here; callers opt in with pay=true.
+        if (Boolean.parseBoolean(query.get("pay"))) {
+            hotel.payBooking(booking);
+        }
+        return Response.ok(booking + "\n");
+    }
+
+    private Response cancel(Map<String, String> query) {
+        if (hotel.cancelBooking(required(query, "id"))) {
+            return Response.ok("Booking canceled.\n");
+        }
+        return new Response(404, "Booking ID not found.\n");
+    }
+
+    private Response bookings() {
+        StringBuilder body = new StringBuilder();
+        for (Booking b : hotel.getBookings()) {
+            body.append(b).append('\n');
+        }
+        return Response.ok(body.toString());
+    }
+}
@@ -0,0 +1,20 @@
+package hotel;
+
+import java.util.*;
+
+/**
+ * Handles simulated payments.
+ */
+class Payment {
+    public static boolean processPayment(double amount) {
+        Scanner sc = new Scanner(System.in);
+        System.out.printf("Payment due: $%.2f\nEnter 'pay' to complete payment: ", amount);
+        String input = sc.nextLine().trim().toLowerCase();
+        if (input.equals("pay")) {
+            System.out.println("✅ Payment successful!");
+            return true;
+        }
+        System.out.println("⚠️ Payment failed or canceled.");
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package hotel;
+
+/**
+ * Represents a single hotel room.
+ */
+class Room {
+    private int roomNumber;
+    private RoomType type;
+    private double pricePerNight;
+    private volatile boolean isBooked;
+
+    public Room(int roomNumber, RoomType type, double pricePerNight) {
+        this.roomNumber = roomNumber;
+        this.type = type;
+        this.pricePerNight = pricePerNight;
+        this.isBooked = false;
+    }
+
+    public int getRoomNumber() {
+        return roomNumber;
+    }
+
+    public RoomType getType() {
+        return type;
+    }
+
+    public double getPricePerNight() {
+        return pricePerNight;
+    }
+
+    public boolean isBooked() {
+        return isBooked;
+    }
+
+    public void setBooked(boolean booked) {
+        isBooked = booked;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Room %d | %s | $%.2f/night | %s",
+                roomNumber, type, pricePerNight, (isBooked ? "BOOKED" : "AVAILABLE"));
+    }
+}
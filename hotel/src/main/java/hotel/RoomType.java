@@ -0,0 +1,8 @@
+package hotel;
+
+/**
+ * Enum for room categories.
+ */
+enum RoomType {
+    STANDARD, DELUXE, SUITE
+}
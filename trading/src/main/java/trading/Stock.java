@@ -0,0 +1,50 @@
+package trading;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a single Stock with a name, symbol, and price.
+ */
+class Stock {
+    private String symbol;
+    private String name;
+    // Read without the lock; only updatePrice's read-modify-write takes it.
+    private volatile double price;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public Stock(String symbol, String name, double price) {
+        this.symbol = symbol;
+        this.name = name;
+        this.price = price;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void updatePrice() {
+        lock.lock();
+        try {
+            // Randomly adjust stock price by +/- 5%
+            double change = (Math.random() - 0.5) * 0.1; // -5% to +5%
+            double next = price + price * change;
+            if (next < 1) next = 1; // Prevent negative prices
+            price = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-10s %-15s $%.2f", symbol, name, price);
+    }
+}
@@ -0,0 +1,122 @@
+package trading;
+
+import common.LocalHttpServer;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Main simulation class.
+ */
+public class StockTradingPlatform {
+    private static Map<String, Stock> market = new HashMap<>();
+    private static Scanner scanner = new Scanner(System.in);
+
+    public static void main(String[] args) throws IOException {
+        initializeMarket();
+
+        if (args.length > 0 && args[0].equals("--serve")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 8081;
+            int backlog = args.length > 2 ? Integer.parseInt(args[2]) : LocalHttpServer.DEFAULT_BACKLOG;
+            new TradingServer(market, port, backlog).start();
+            return;
+        }
+
+        System.out.print("Enter your name: - TASK 2.java:182");
+        String name = scanner.nextLine();
+        User user = User.loadPortfolioFromFile();
+        if (user == null) {
+            user = new User(name, 10000); // Starting balance
+        }
+
+        int choice;
+        do {
+            showMenu();
+            choice = Integer.parseInt(scanner.nextLine());
+            switch (choice) {
+                case 1 -> displayMarket();
+                case 2 -> handleBuy(user);
+                case 3 -> handleSell(user);
+                case 4 -> user.displayPortfolio(market);
+                case 5 -> updateMarketPrices();
+                case 6 -> user.savePortfolioToFile();
+                case 0 -> {
+                    user.savePortfolioToFile();
+                    System.out.println("👋 Exiting platform. Goodbye! - TASK 2.java:202");
+                }
+                default -> System.out.println("Invalid choice, try again. - TASK 2.java:204");
+            }
+        } while (choice != 0);
+    }
+
+    private static void showMenu() {
+        System.out.println("\n=== Stock Trading Platform === - TASK 2.java:210");
+        System.out.println("1. View Market Data - TASK 2.java:211");
+        System.out.println("2. Buy Stock - TASK 2.java:212");
+        System.out.println("3. Sell Stock - TASK 2.java:213");
+        System.out.println("4. View Portfolio - TASK 2.java:214");
+        System.out.println("5. Refresh Market Prices - TASK 2.java:215");
+        System.out.println("6. Save Portfolio - TASK 2.java:216");
+        System.out.println("0. Exit - TASK 2.java:217");
+        System.out.print("Enter choice: - TASK 2.java:218");
+    }
+
+    private static void initializeMarket() {
+        market.put("AAPL", new Stock("AAPL", "Apple Inc.", 175.50));
+        market.put("GOOG", new Stock("GOOG", "Alphabet Inc.", 135.75));
+        market.put("AMZN", new Stock("AMZN", "Amazon.com Inc.", 120.90));
+        market.put("TSLA", new Stock("TSLA", "Tesla Inc.", 210.40));
+        market.put("MSFT", new Stock("MSFT", "Microsoft Corp.", 310.25));
+    }
+
+    private static void displayMarket() {
+        System.out.println("\n=== Market Data === - TASK 2.java:230");
+        System.out.printf("%-10s %-15s %-10s\n", "Symbol", "Company", "Price");
+        System.out.println("");
+        for (Stock stock : market.values()) {
+            System.out.println(stock);
+        }
+    }
+
+    private static void handleBuy(User user) {
+        displayMarket();
+        System.out.print("Enter stock symbol to buy: - TASK 2.java:240");
+        String symbol = scanner.nextLine().toUpperCase();
+        if (!market.containsKey(symbol)) {
+            System.out.println("⚠️ Invalid stock symbol! - TASK 2.java:243");
+            return;
+        }
+        System.out.print("Enter quantity to buy: - TASK 2.java:246");
+        int qty = Integer.parseInt(scanner.nextLine());
+        if (user.buyStock(market.get(symbol), qty)) {
+            System.out.println("✅ Successfully bought - TASK 2.java:109" + qty + " shares of " + symbol);
+        } else {
+            System.out.println("⚠️ Not enough balance to complete this purchase! - TASK 2.java:103");
+        }
+    }
+
+    private static void handleSell(User user) {
+        user.displayPortfolio(market);
+        System.out.print("Enter stock symbol to sell: - TASK 2.java:253");
+        String symbol = scanner.nextLine().toUpperCase();
+        if (!market.containsKey(symbol)) {
+            System.out.println("⚠️ Invalid stock symbol! - TASK 2.java:256");
+            return;
+        }
+        System.out.print("Enter quantity to sell: - TASK 2.java:259");
+        int qty = Integer.parseInt(scanner.nextLine());
+        if (user.sellStock(market.get(symbol), qty)) {
+            System.out.println("✅ Sold - TASK 2.java:123" + qty + " shares of " + symbol);
+        } else {
+            System.out.println("⚠️ Not enough shares to sell! - TASK 2.java:114");
+        }
+    }
+
+    private static void updateMarketPrices() {
+        System.out.println("\n📈 Updating market prices... - TASK 2.java:265");
+        for (Stock stock : market.values()) {
+            stock.updatePrice();
+        }
+        System.out.println("✅ Market prices refreshed. - TASK 2.java:269");
+    }
+}
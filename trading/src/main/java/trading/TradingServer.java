@@ -0,0 +1,89 @@
+package trading;
+
+import common.LocalHttpServer;
+import common.LocalHttpServer.Response;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static common.LocalHttpServer.required;
+
+/**
+ * Headless HTTP front end for the market, used instead of the console menu.
+ * Each user name gets its own portfolio, created on first use.
+ */
+class TradingServer {
+    private static final double STARTING_BALANCE = 10000;
+
+    private final Map<String, Stock> market;
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final int port;
+    private final int backlog;
+
+    public TradingServer(Map<String, Stock> market, int port, int backlog) {
+        this.market = market;
+        this.port = port;
+        this.backlog = backlog;
+    }
+
+    public void start() throws IOException {
+        LocalHttpServer server = new LocalHttpServer(port, backlog);
+        server.route("/quote", this::quote);
+        server.route("/buy", q -> trade(q, true));
+        server.route("/sell", q -> trade(q, false));
+        server.route("/portfolio", this::portfolio);
+        server.route("/refresh", q -> refresh());
+        server.start();
+        System.out.println("📈 Trading service listening on http://127.0.0.1:" + port);
+    }
+
+    private Response quote(Map<String, String> query) {
+        String symbol = query.get("symbol");
+        if (symbol == null) {
+            StringBuilder body = new StringBuilder();
+            for (Stock stock : market.values()) {
+                body.append(stock).append('\n');
+            }
+            return Response.ok(body.toString());
+        }
+        return Response.ok(stock(symbol) + "\n");
+    }
+
+    private Response trade(Map<String, String> query, boolean buy) {
+        User user = user(query);
+        Stock stock = stock(required(query, "symbol"));
+        int qty = Integer.parseInt(required(query, "qty"));
+        if (qty <= 0) {
+            throw new IllegalArgumentException("qty must be positive");
+        }
+        boolean done = buy ? user.buyStock(stock, qty) : user.sellStock(stock, qty);
+        if (!done) {
+            return new Response(409, buy ? "Not enough balance.\n" : "Not enough shares.\n");
+        }
+        return Response.ok((buy ? "Bought " : "Sold ") + qty + " shares of " + stock.getSymbol() + "\n");
+    }
+
+    private Response portfolio(Map<String, String> query) {
+        return Response.ok(user(query).formatPortfolio(market));
+    }
+
+    private Response refresh() {
+        for (Stock stock : market.values()) {
+            stock.updatePrice();
+        }
+        return Response.ok("Market prices refreshed.\n");
+    }
+
+    private User user(Map<String, String> query) {
+        return users.computeIfAbsent(required(query, "user"), name -> new User(name, STARTING_BALANCE));
+    }
+
+    private Stock stock(String symbol) {
+        Stock stock = market.get(symbol.toUpperCase());
+        if (stock == null) {
+            throw new IllegalArgumentException("Invalid stock symbol: " + symbol);
+        }
+        return stock;
+    }
+}
@@ -0,0 +1,28 @@
+package trading;
+
+import java.util.*;
+
+/**
+ * Represents a stock transaction (buy/sell).
+ */
+class Transaction {
+    private String stockSymbol;
+    private int quantity;
+    private double price;
+    private String type; // "BUY" or "SELL"
+    private Date date;
+
+    public Transaction(String stockSymbol, int quantity, double price, String type) {
+        this.stockSymbol = stockSymbol;
+        this.quantity = quantity;
+        this.price = price;
+        this.type = type;
+        this.date = new Date();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %s %d shares of %s @ $%.2f",
+                date, type, quantity, stockSymbol, price);
+    }
+}
@@ -0,0 +1,140 @@
+package trading;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a user who owns a portfolio of stocks and balance.
+ */
+class User {
+    private String name;
+    private double balance;
+    private Map<String, Integer> portfolio;
+    private List<Transaction> transactions;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public User(String name, double startingBalance) {
+        this.name = name;
+        this.balance = startingBalance;
+        this.portfolio = new HashMap<>();
+        this.transactions = new ArrayList<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public Map<String, Integer> getPortfolio() {
+        return portfolio;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public boolean buyStock(Stock stock, int quantity) {
+        lock.lock();
+        try {
+            double price = stock.getPrice();
+            double cost = price * quantity;
+            if (cost > balance) {
+                return false;
+            }
+            balance -= cost;
+            portfolio.put(stock.getSymbol(), portfolio.getOrDefault(stock.getSymbol(), 0) + quantity);
+            transactions.add(new Transaction(stock.getSymbol(), quantity, price, "BUY"));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean sellStock(Stock stock, int quantity) {
+        lock.lock();
+        try {
+            if (!portfolio.containsKey(stock.getSymbol()) || portfolio.get(stock.getSymbol()) < quantity) {
+                return false;
+            }
+            double price = stock.getPrice();
+            double revenue = price * quantity;
+            balance += revenue;
+            portfolio.put(stock.getSymbol(), portfolio.get(stock.getSymbol()) - quantity);
+            if (portfolio.get(stock.getSymbol()) == 0)
+                portfolio.remove(stock.getSymbol());
+            transactions.add(new Transaction(stock.getSymbol(), quantity, price, "SELL"));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void displayPortfolio(Map<String, Stock> market) {
+        System.out.println("\n=== Portfolio for - TASK 2.java:127" + name + " ===");
+        System.out.print(formatPortfolio(market));
+    }
+
+    /**
+     * Holdings, cash and total value as text, shared by the console and the HTTP service.
+     */
+    public String formatPortfolio(Map<String, Stock> market) {
+        lock.lock();
+        try {
+            StringBuilder sb = new StringBuilder();
+            double totalValue = 0;
+            for (Map.Entry<String, Integer> entry : portfolio.entrySet()) {
+                int qty = entry.getValue();
+                double price = market.get(entry.getKey()).getPrice();
+                double value = qty * price;
+                totalValue += value;
+                sb.append(String.format("%-10s Shares: %-5d Value: $%.2f\n", entry.getKey(), qty, value));
+            }
+            sb.append(String.format("\nCash Balance: $%.2f\n", balance));
+            sb.append(String.format("Total Portfolio Value: $%.2f\n", totalValue + balance));
+            return sb.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void savePortfolioToFile() {
+        StringBuilder snapshot = new StringBuilder();
+        lock.lock();
+        try {
+            snapshot.append(name).append('\n').append(balance).append('\n');
+            for (Map.Entry<String, Integer> entry : portfolio.entrySet()) {
+                snapshot.append(entry.getKey()).append(',').append(entry.getValue()).append('\n');
+            }
+        } finally {
+            lock.unlock();
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter("portfolio.txt"))) {
+            writer.print(snapshot);
+            System.out.println("💾 Portfolio saved to portfolio.txt - TASK 2.java:147");
+        } catch (IOException e) {
+            System.out.println("Error saving portfolio: - TASK 2.java:149" + e.getMessage());
+        }
+    }
+
+    public static User loadPortfolioFromFile() {
+        try (BufferedReader reader = new BufferedReader(new FileReader("portfolio.txt"))) {
+            String name = reader.readLine();
+            double balance = Double.parseDouble(reader.readLine());
+            User user = new User(name, balance);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                user.portfolio.put(parts[0], Integer.parseInt(parts[1]));
+            }
+            System.out.println("📂 Portfolio loaded from file. - TASK 2.java:163");
+            return user;
+        } catch (IOException e) {
+            System.out.println("No saved portfolio found. Creating a new one. - TASK 2.java:166");
+            return null;
+        }
+    }
+}